@@ -4,19 +4,22 @@ import com.example.demo.entity.Game;
 import com.example.demo.entity.User;
 import com.example.demo.exception.GameAlreadyWonException;
 import com.example.demo.service.GameService;
+import com.example.demo.service.PositionAnalyticsService;
 import com.example.demo.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * The {@code GameController} class manages HTTP requests related to Tic-Tac-Toe games.
  *
  * It provides endpoints to start a new game, make a move in the game, retrieve the leaderboard,
- * and get a list of all games. The controller interacts with the {@code GameService} for game logic
- * and the {@code UserService} for user-related operations.
+ * report position analytics, and get a list of all games. The controller interacts with the
+ * {@code GameService} for game logic, the {@code PositionAnalyticsService} for analytics, and the
+ * {@code UserService} for user-related operations.
  */
 @RestController
 @CrossOrigin(origins = "http://localhost:3000")
@@ -29,6 +32,9 @@ public class GameController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private PositionAnalyticsService positionAnalyticsService;
+
     /**
      * Starts a new game for the user identified by their email.
      *
@@ -55,6 +61,7 @@ public class GameController {
      * @param position The position on the board where the move is to be made.
      * @return A {@code ResponseEntity} containing the updated {@code Game} object.
      * @throws GameAlreadyWonException If the game is already won.
+     * @throws IllegalStateException If the game is over or the position is invalid or already taken.
      */
     @PostMapping("/move")
     public ResponseEntity<Game> makeMove(@RequestParam Long gameId, @RequestParam int position) {
@@ -104,6 +111,32 @@ public class GameController {
         return ResponseEntity.ok(leaderboard);
     }
 
+    /**
+     * Retrieves the most frequently played openings.
+     *
+     * This endpoint returns the positions after the first move and reply of finished games,
+     * with rotations and reflections counted as the same position, ordered by how often they
+     * were played.
+     *
+     * @param limit The maximum number of openings to return.
+     * @return A {@code ResponseEntity} containing canonical board states mapped to their frequency.
+     */
+    @GetMapping("/analytics/openings")
+    public ResponseEntity<Map<String, Long>> getTopOpenings(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(positionAnalyticsService.getTopOpenings(limit));
+    }
+
+    /**
+     * Retrieves the most frequent final positions of finished games.
+     *
+     * @param limit The maximum number of positions to return.
+     * @return A {@code ResponseEntity} containing canonical board states mapped to their frequency.
+     */
+    @GetMapping("/analytics/positions")
+    public ResponseEntity<Map<String, Long>> getTopFinalPositions(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(positionAnalyticsService.getTopFinalPositions(limit));
+    }
+
     /**
      * Checks if the game board is full.
      *
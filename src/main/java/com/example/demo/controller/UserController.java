@@ -1,19 +1,27 @@
 package com.example.demo.controller;
 
+import com.example.demo.entity.BulkImportResult;
 import com.example.demo.entity.User;
 import com.example.demo.entity.UserDto;
+import com.example.demo.service.UserBulkService;
 import com.example.demo.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
  * The {@code UserController} class handles HTTP requests related to user management.
  *
- * It provides endpoints to create a new user and to retrieve a list of all users.
- * The controller uses the {@code UserService} to perform business logic related to users.
+ * It provides endpoints to create a new user, to retrieve a list of all users, and to
+ * import or export users in bulk. The controller uses the {@code UserService} and
+ * {@code UserBulkService} to perform business logic related to users.
  */
 @RestController
 @CrossOrigin(origins = "http://localhost:3000")
@@ -23,6 +31,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserBulkService userBulkService;
+
     /**
      * Creates a new user.
      *
@@ -63,4 +74,44 @@ public class UserController {
         List<User> users = userService.getAllUser();
         return ResponseEntity.ok(users);
     }
+
+    /**
+     * Imports users in bulk.
+     *
+     * This endpoint streams a CSV file (with a {@code name,email} header) or NDJSON file
+     * (one {@code UserDto} per line) from the request body. Rows with a missing or duplicate
+     * email are reported with their line number and do not stop the rest of the import.
+     *
+     * @param contentType The format of the body, {@code text/csv} or {@code application/x-ndjson}.
+     * @param body The request body.
+     * @return A {@code ResponseEntity} containing the number of imported users and the per-row errors.
+     * @throws IOException If the request body cannot be read.
+     */
+    @PostMapping(value = "/bulk", consumes = {UserBulkService.CSV, UserBulkService.NDJSON})
+    public ResponseEntity<BulkImportResult> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                        InputStream body) throws IOException {
+        BulkImportResult result = userBulkService.importUsers(body, contentType);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Exports all users with their statistics.
+     *
+     * This endpoint streams every user with their wins, losses and draws as CSV or NDJSON.
+     *
+     * @param format The output format, {@code csv} (default) or {@code ndjson}.
+     * @return A {@code ResponseEntity} streaming the exported users.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "csv") String format) {
+        String mediaType = switch (format) {
+            case "csv" -> UserBulkService.CSV;
+            case "ndjson" -> UserBulkService.NDJSON;
+            default -> throw new IllegalStateException("Unsupported export format: " + format);
+        };
+        StreamingResponseBody body = output -> userBulkService.exportUsers(output, mediaType);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(mediaType))
+                .body(body);
+    }
 }
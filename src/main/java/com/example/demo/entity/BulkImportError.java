@@ -0,0 +1,14 @@
+package com.example.demo.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A row of a bulk user import that could not be imported.
+ */
+@Data
+@AllArgsConstructor
+public class BulkImportError {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.entity;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a bulk user import: how many rows were imported, how many were rejected,
+ * and why. Only the first rejected rows are listed in {@code errors}; {@code errorCount}
+ * counts all of them.
+ */
+@Data
+public class BulkImportResult {
+    private long imported = 0;
+    private long errorCount = 0;
+    private List<BulkImportError> errors = new ArrayList<>();
+}
@@ -23,6 +23,7 @@ public class Game {
 
     private String boardState;
     private String result; // "WIN", "LOSS", "DRAW"
+    private String opening; // board after the first two moves
     private LocalDateTime datePlayed;
 
 
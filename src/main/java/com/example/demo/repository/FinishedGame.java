@@ -0,0 +1,10 @@
+package com.example.demo.repository;
+
+/**
+ * The parts of a finished game that position analytics need.
+ *
+ * @param boardState The final board.
+ * @param opening The board after the first two moves, or {@code null} for games recorded without one.
+ */
+public record FinishedGame(String boardState, String opening) {
+}
@@ -3,6 +3,7 @@ package com.example.demo.repository;
 import com.example.demo.entity.Game;
 import com.example.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +12,8 @@ import java.util.List;
 public interface GameRepository extends JpaRepository<Game, Long> {
         boolean existsByIdAndResult(Long id, String result);
 
+        @Query("select new com.example.demo.repository.FinishedGame(g.boardState, g.opening) "
+                + "from Game g where g.result is not null")
+        List<FinishedGame> findFinishedGames();
+
 }
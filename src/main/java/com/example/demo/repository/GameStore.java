@@ -0,0 +1,55 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Game;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage SPI for {@code Game} records.
+ *
+ * The services talk to this interface instead of a concrete repository so the
+ * persistence engine can be swapped with the {@code storage.engine} property
+ * ({@code jpa} or {@code memory}).
+ */
+public interface GameStore {
+
+    /**
+     * Inserts or updates a game. A game without an ID is assigned one.
+     *
+     * @param game The game to store.
+     * @return The stored {@code Game} object.
+     */
+    Game save(Game game);
+
+    /**
+     * Finds a game by its ID.
+     *
+     * @param id The ID of the game.
+     * @return The game, or an empty {@code Optional} if it does not exist.
+     */
+    Optional<Game> findById(Long id);
+
+    /**
+     * Checks if the game with the given ID has the given result.
+     *
+     * @param id The ID of the game.
+     * @param result The result to match ("WIN", "LOSS" or "DRAW").
+     * @return {@code true} if the game exists and has that result.
+     */
+    boolean existsByIdAndResult(Long id, String result);
+
+    /**
+     * Retrieves all stored games.
+     *
+     * @return A list of all {@code Game} objects.
+     */
+    List<Game> findAll();
+
+    /**
+     * Retrieves the final board and opening of all games that have a result.
+     *
+     * @return One entry per finished game.
+     */
+    List<FinishedGame> findFinishedGames();
+}
@@ -0,0 +1,269 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Game;
+import com.example.demo.entity.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory {@code GameStore}, active when {@code storage.engine=memory}.
+ *
+ * Games are held as compact records in parallel primitive arrays indexed by {@code id - 1}:
+ * the owning user's ID, the packed board and result, the packed opening, and the date played
+ * in epoch millis. A board uses two bits per cell (18 bits) and the result two more bits, so a
+ * game costs 24 bytes instead of an entity with four strings. {@code Game} objects are rebuilt on read.
+ *
+ * If {@code storage.memory.snapshot-dir} is set, the games are loaded from {@code games.snapshot}
+ * in that directory on startup and written back by {@code InMemorySnapshotScheduler}. A crash loses
+ * the games changed since the last snapshot.
+ */
+@Repository
+@ConditionalOnProperty(name = "storage.engine", havingValue = "memory")
+public class InMemoryGameStore implements GameStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x47414D32; // "GAM2"
+    private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int SNAPSHOT_MAGIC_WITHOUT_OPENINGS = 0x47414D45; // "GAME"
+    private static final int RECORD_SIZE_WITHOUT_OPENINGS = Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int NO_OPENING = 0; // an opening always has two marks, so never packs to 0
+    private static final String[] RESULTS = {null, "WIN", "LOSS", "DRAW"};
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    @Autowired
+    private UserStore userStore;
+
+    @Value("${storage.memory.snapshot-dir:}")
+    private String snapshotDir;
+
+    private long[] userIds = new long[64];
+    private int[] packedStates = new int[64];
+    private int[] packedOpenings = new int[64];
+    private long[] datesPlayed = new long[64];
+    private int size;
+
+    @Override
+    public synchronized Game save(Game game) {
+        if (game.getId() == null) {
+            ensureCapacity(size + 1);
+            game.setId((long) ++size);
+        } else if (game.getId() < 1 || game.getId() > size) {
+            throw new IllegalStateException("Game id " + game.getId() + " is not managed by this store");
+        }
+        int index = (int) (game.getId() - 1);
+        userIds[index] = game.getUser() == null || game.getUser().getId() == null ? 0 : game.getUser().getId();
+        packedStates[index] = pack(game.getBoardState(), game.getResult());
+        packedOpenings[index] = game.getOpening() == null ? NO_OPENING : pack(game.getOpening(), null);
+        datesPlayed[index] = game.getDatePlayed() == null
+                ? NO_DATE
+                : game.getDatePlayed().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return game;
+    }
+
+    @Override
+    public synchronized Optional<Game> findById(Long id) {
+        if (id == null || id < 1 || id > size) {
+            return Optional.empty();
+        }
+        return Optional.of(toGame((int) (id - 1), new HashMap<>()));
+    }
+
+    @Override
+    public synchronized boolean existsByIdAndResult(Long id, String result) {
+        if (id == null || id < 1 || id > size) {
+            return false;
+        }
+        return resultCode(result) != 0 && packedStates[(int) (id - 1)] >>> 18 == resultCode(result);
+    }
+
+    @Override
+    public synchronized List<Game> findAll() {
+        Map<Long, User> users = new HashMap<>();
+        List<Game> games = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            games.add(toGame(i, users));
+        }
+        return games;
+    }
+
+    @Override
+    public synchronized List<FinishedGame> findFinishedGames() {
+        List<FinishedGame> finished = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (unpackResult(packedStates[i]) != null) {
+                finished.add(new FinishedGame(unpackBoard(packedStates[i]), unpackOpening(packedOpenings[i])));
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * Loads the games from the snapshot file, if one is configured and present.
+     *
+     * @throws IllegalStateException If the snapshot is corrupt or references a user that the
+     *         user store does not have.
+     */
+    @PostConstruct
+    public synchronized void loadSnapshot() {
+        Path file = snapshotFile();
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        ByteBuffer buffer = MappedSnapshot.read(file);
+        // Snapshots written before openings were stored are still read; their games have no opening.
+        boolean withOpenings = buffer.remaining() < Integer.BYTES
+                || buffer.getInt(buffer.position()) != SNAPSHOT_MAGIC_WITHOUT_OPENINGS;
+        int magic = withOpenings ? SNAPSHOT_MAGIC : SNAPSHOT_MAGIC_WITHOUT_OPENINGS;
+        int recordSize = withOpenings ? RECORD_SIZE : RECORD_SIZE_WITHOUT_OPENINGS;
+        int count = MappedSnapshot.readHeader(buffer, file, magic, recordSize);
+        if ((long) count * recordSize != buffer.remaining()) {
+            throw new IllegalStateException("Corrupt snapshot: " + file);
+        }
+        long[] loadedUserIds = new long[count];
+        int[] loadedStates = new int[count];
+        int[] loadedOpenings = new int[count];
+        long[] loadedDates = new long[count];
+        long maxUserId = 0;
+        for (int i = 0; i < count; i++) {
+            loadedUserIds[i] = buffer.getLong();
+            loadedStates[i] = buffer.getInt();
+            loadedOpenings[i] = withOpenings ? buffer.getInt() : NO_OPENING;
+            loadedDates[i] = buffer.getLong();
+            maxUserId = Math.max(maxUserId, loadedUserIds[i]);
+        }
+        // User IDs are contiguous, so checking the highest one covers every game.
+        if (maxUserId > 0 && userStore.findById(maxUserId).isEmpty()) {
+            throw new IllegalStateException("Snapshot " + file + " references user " + maxUserId
+                    + " missing from the user snapshot");
+        }
+        size = 0;
+        ensureCapacity(count);
+        System.arraycopy(loadedUserIds, 0, userIds, 0, count);
+        System.arraycopy(loadedStates, 0, packedStates, 0, count);
+        System.arraycopy(loadedOpenings, 0, packedOpenings, 0, count);
+        System.arraycopy(loadedDates, 0, datesPlayed, 0, count);
+        size = count;
+    }
+
+    /**
+     * Writes all games to the snapshot file, if one is configured.
+     */
+    public void writeSnapshot() {
+        prepareSnapshot().run();
+    }
+
+    /**
+     * Captures the current games under the store lock and returns an action that writes
+     * them to the snapshot file without holding it.
+     *
+     * @return The write action; it does nothing if no snapshot is configured.
+     */
+    public synchronized Runnable prepareSnapshot() {
+        Path file = snapshotFile();
+        if (file == null) {
+            return () -> {
+            };
+        }
+        int count = size;
+        long[] capturedUserIds = Arrays.copyOf(userIds, count);
+        int[] capturedStates = Arrays.copyOf(packedStates, count);
+        int[] capturedOpenings = Arrays.copyOf(packedOpenings, count);
+        long[] capturedDates = Arrays.copyOf(datesPlayed, count);
+        return () -> MappedSnapshot.write(file, 2L * Integer.BYTES + (long) count * RECORD_SIZE, buffer -> {
+            buffer.putInt(SNAPSHOT_MAGIC);
+            buffer.putInt(count);
+            for (int i = 0; i < count; i++) {
+                buffer.putLong(capturedUserIds[i]);
+                buffer.putInt(capturedStates[i]);
+                buffer.putInt(capturedOpenings[i]);
+                buffer.putLong(capturedDates[i]);
+            }
+        });
+    }
+
+    private Game toGame(int index, Map<Long, User> users) {
+        Game game = new Game();
+        game.setId((long) index + 1);
+        if (userIds[index] != 0) {
+            game.setUser(users.computeIfAbsent(userIds[index], id -> userStore.findById(id).orElse(null)));
+        }
+        game.setBoardState(unpackBoard(packedStates[index]));
+        game.setResult(unpackResult(packedStates[index]));
+        game.setOpening(unpackOpening(packedOpenings[index]));
+        if (datesPlayed[index] != NO_DATE) {
+            game.setDatePlayed(LocalDateTime.ofInstant(Instant.ofEpochMilli(datesPlayed[index]), ZoneOffset.UTC));
+        }
+        return game;
+    }
+
+    /**
+     * Packs a board into two bits per cell and the result into bits 18-19.
+     */
+    static int pack(String boardState, String result) {
+        int packed = 0;
+        for (int cell = 0; cell < 9; cell++) {
+            char mark = boardState == null || cell >= boardState.length() ? '-' : boardState.charAt(cell);
+            int code = mark == 'X' ? 1 : mark == 'O' ? 2 : 0;
+            packed |= code << (cell * 2);
+        }
+        return packed | resultCode(result) << 18;
+    }
+
+    static String unpackBoard(int packed) {
+        char[] board = new char[9];
+        for (int cell = 0; cell < board.length; cell++) {
+            board[cell] = switch ((packed >>> (cell * 2)) & 3) {
+                case 1 -> 'X';
+                case 2 -> 'O';
+                default -> '-';
+            };
+        }
+        return new String(board);
+    }
+
+    static String unpackResult(int packed) {
+        return RESULTS[packed >>> 18];
+    }
+
+    private static String unpackOpening(int packed) {
+        return packed == NO_OPENING ? null : unpackBoard(packed);
+    }
+
+    private static int resultCode(String result) {
+        for (int code = 1; code < RESULTS.length; code++) {
+            if (RESULTS[code].equals(result)) {
+                return code;
+            }
+        }
+        return 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > userIds.length) {
+            int newLength = Math.max(capacity, userIds.length * 2);
+            userIds = Arrays.copyOf(userIds, newLength);
+            packedStates = Arrays.copyOf(packedStates, newLength);
+            packedOpenings = Arrays.copyOf(packedOpenings, newLength);
+            datesPlayed = Arrays.copyOf(datesPlayed, newLength);
+        }
+    }
+
+    private Path snapshotFile() {
+        return snapshotDir == null || snapshotDir.isBlank() ? null : Path.of(snapshotDir, "games.snapshot");
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the snapshots of the in-memory stores together, active when {@code storage.engine=memory}.
+ *
+ * The stores are captured in an order that keeps the game snapshot from referring to a user
+ * missing from the user snapshot. The files are written after the locks are released, so
+ * reads and writes on the stores are not held up by disk I/O. Runs on shutdown and every
+ * {@code storage.memory.snapshot-interval-ms} milliseconds.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.engine", havingValue = "memory")
+public class InMemorySnapshotScheduler {
+
+    @Autowired
+    private InMemoryGameStore gameStore;
+
+    @Autowired
+    private InMemoryUserStore userStore;
+
+    /**
+     * Captures both stores and writes their snapshot files.
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${storage.memory.snapshot-interval-ms:60000}",
+            initialDelayString = "${storage.memory.snapshot-interval-ms:60000}")
+    public void writeSnapshots() {
+        // Games before users: users are never removed and a game can only refer to a user that
+        // already exists, so every user referenced by the captured games is in the later capture.
+        Runnable writeGames = gameStore.prepareSnapshot();
+        Runnable writeUsers = userStore.prepareSnapshot();
+        // Users first: if the process dies between the two writes, the user file on disk still
+        // covers every game in the older game file.
+        writeUsers.run();
+        writeGames.run();
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-memory {@code UserStore}, active when {@code storage.engine=memory}.
+ *
+ * Users are kept in a list indexed by {@code id - 1} with an email index on the side.
+ * Callers always receive copies, so changes only become visible through {@link #save}.
+ * If {@code storage.memory.snapshot-dir} is set, the users are loaded from {@code users.snapshot}
+ * in that directory on startup and written back by {@code InMemorySnapshotScheduler}. A crash loses
+ * the users changed since the last snapshot.
+ */
+@Repository
+@ConditionalOnProperty(name = "storage.engine", havingValue = "memory")
+public class InMemoryUserStore implements UserStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x55534552; // "USER"
+    private static final int MIN_RECORD_SIZE = 5 * Integer.BYTES;
+
+    private final List<User> users = new ArrayList<>();
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+
+    @Value("${storage.memory.snapshot-dir:}")
+    private String snapshotDir;
+
+    @Override
+    public synchronized User save(User user) {
+        if (user.getId() == null) {
+            user.setId((long) users.size() + 1);
+            users.add(null);
+        } else if (user.getId() < 1 || user.getId() > users.size()) {
+            throw new IllegalStateException("User id " + user.getId() + " is not managed by this store");
+        }
+        int index = (int) (user.getId() - 1);
+        User previous = users.get(index);
+        if (previous != null && previous.getEmail() != null) {
+            idsByEmail.remove(previous.getEmail());
+        }
+        users.set(index, copy(user));
+        if (user.getEmail() != null) {
+            idsByEmail.put(user.getEmail(), user.getId());
+        }
+        return user;
+    }
+
+    @Override
+    public synchronized List<User> saveAll(List<User> users) {
+        for (User user : users) {
+            save(user);
+        }
+        return users;
+    }
+
+    @Override
+    public synchronized Optional<User> findById(Long id) {
+        if (id == null || id < 1 || id > users.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(copy(users.get((int) (id - 1))));
+    }
+
+    @Override
+    public synchronized Optional<User> findByEmail(String email) {
+        Long id = idsByEmail.get(email);
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public synchronized boolean existsByEmail(String email) {
+        return idsByEmail.containsKey(email);
+    }
+
+    @Override
+    public synchronized Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (String email : emails) {
+            if (idsByEmail.containsKey(email)) {
+                existing.add(email);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public synchronized List<User> findTopByWins(int limit) {
+        return users.stream()
+                .sorted(Comparator.comparingInt(User::getWins).reversed())
+                .limit(limit)
+                .map(InMemoryUserStore::copy)
+                .toList();
+    }
+
+    @Override
+    public synchronized List<User> findAll() {
+        List<User> result = new ArrayList<>(users.size());
+        for (User user : users) {
+            result.add(copy(user));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<User> findPage(long afterId, int size) {
+        long from = Math.max(afterId, 0);
+        if (from >= users.size()) {
+            return List.of();
+        }
+        List<User> result = new ArrayList<>(size);
+        for (int i = (int) from; i < Math.min(users.size(), from + size); i++) {
+            result.add(copy(users.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Loads the users from the snapshot file, if one is configured and present.
+     */
+    @PostConstruct
+    public synchronized void loadSnapshot() {
+        Path file = snapshotFile();
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        ByteBuffer buffer = MappedSnapshot.read(file);
+        int count = MappedSnapshot.readHeader(buffer, file, SNAPSHOT_MAGIC, MIN_RECORD_SIZE);
+        List<User> loaded = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                User user = new User(null, null);
+                user.setId((long) i + 1);
+                user.setWins(buffer.getInt());
+                user.setLosses(buffer.getInt());
+                user.setDraws(buffer.getInt());
+                user.setName(MappedSnapshot.getString(buffer));
+                user.setEmail(MappedSnapshot.getString(buffer));
+                loaded.add(user);
+            }
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalStateException("Truncated snapshot: " + file, ex);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalStateException("Corrupt snapshot: " + file);
+        }
+        users.clear();
+        idsByEmail.clear();
+        for (User user : loaded) {
+            users.add(user);
+            if (user.getEmail() != null) {
+                idsByEmail.put(user.getEmail(), user.getId());
+            }
+        }
+    }
+
+    /**
+     * Writes all users to the snapshot file, if one is configured.
+     */
+    public void writeSnapshot() {
+        prepareSnapshot().run();
+    }
+
+    /**
+     * Captures the current users under the store lock and returns an action that writes
+     * them to the snapshot file without holding it.
+     *
+     * @return The write action; it does nothing if no snapshot is configured.
+     */
+    public synchronized Runnable prepareSnapshot() {
+        Path file = snapshotFile();
+        if (file == null) {
+            return () -> {
+            };
+        }
+        // Stored users are replaced on save, never changed in place, so a shallow copy is enough.
+        List<User> captured = new ArrayList<>(users);
+        return () -> writeSnapshot(file, captured);
+    }
+
+    private static void writeSnapshot(Path file, List<User> users) {
+        int count = users.size();
+        byte[][] names = new byte[count][];
+        byte[][] emails = new byte[count][];
+        long size = 2L * Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            names[i] = MappedSnapshot.encode(users.get(i).getName());
+            emails[i] = MappedSnapshot.encode(users.get(i).getEmail());
+            size += 3L * Integer.BYTES + MappedSnapshot.stringSize(names[i]) + MappedSnapshot.stringSize(emails[i]);
+        }
+        MappedSnapshot.write(file, size, buffer -> {
+            buffer.putInt(SNAPSHOT_MAGIC);
+            buffer.putInt(count);
+            for (int i = 0; i < count; i++) {
+                User user = users.get(i);
+                buffer.putInt(user.getWins());
+                buffer.putInt(user.getLosses());
+                buffer.putInt(user.getDraws());
+                MappedSnapshot.putString(buffer, names[i]);
+                MappedSnapshot.putString(buffer, emails[i]);
+            }
+        });
+    }
+
+    private Path snapshotFile() {
+        return snapshotDir == null || snapshotDir.isBlank() ? null : Path.of(snapshotDir, "users.snapshot");
+    }
+
+    private static User copy(User user) {
+        User copy = new User(user.getName(), user.getEmail());
+        copy.setId(user.getId());
+        copy.setWins(user.getWins());
+        copy.setLosses(user.getLosses());
+        copy.setDraws(user.getDraws());
+        return copy;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Game;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code GameStore} backed by the JPA {@code GameRepository} (SQLite).
+ *
+ * This is the default engine, active when {@code storage.engine} is unset or {@code jpa}.
+ */
+@Repository
+@ConditionalOnProperty(name = "storage.engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaGameStore implements GameStore {
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Override
+    public Game save(Game game) {
+        return gameRepository.save(game);
+    }
+
+    @Override
+    public Optional<Game> findById(Long id) {
+        return gameRepository.findById(id);
+    }
+
+    @Override
+    public boolean existsByIdAndResult(Long id, String result) {
+        return gameRepository.existsByIdAndResult(id, result);
+    }
+
+    @Override
+    public List<Game> findAll() {
+        return gameRepository.findAll();
+    }
+
+    @Override
+    public List<FinishedGame> findFinishedGames() {
+        return gameRepository.findFinishedGames();
+    }
+}
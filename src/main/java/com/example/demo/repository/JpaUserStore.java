@@ -0,0 +1,84 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@code UserStore} backed by the JPA {@code UserRepository} (SQLite).
+ *
+ * This is the default engine, active when {@code storage.engine} is unset or {@code jpa}.
+ * The bulk operations {@link #saveAll} and {@link #findPage} clear the persistence context
+ * afterwards, so a request that walks through many users does not keep them all managed.
+ */
+@Repository
+@ConditionalOnProperty(name = "storage.engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaUserStore implements UserStore {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public User save(User user) {
+        return userRepository.save(user);
+    }
+
+    @Override
+    public List<User> saveAll(List<User> users) {
+        List<User> saved = userRepository.saveAll(users);
+        entityManager.clear();
+        return saved;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return new HashSet<>(userRepository.findEmailsIn(emails));
+    }
+
+    @Override
+    public List<User> findTopByWins(int limit) {
+        return userRepository.findAll(PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "wins"))).getContent();
+    }
+
+    @Override
+    public List<User> findAll() {
+        return userRepository.findAll();
+    }
+
+    @Override
+    public List<User> findPage(long afterId, int size) {
+        List<User> page = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+        entityManager.clear();
+        return page;
+    }
+}
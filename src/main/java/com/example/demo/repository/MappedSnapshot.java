@@ -0,0 +1,132 @@
+package com.example.demo.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Reads and writes the snapshot files of the in-memory storage engine through
+ * memory-mapped buffers.
+ *
+ * Every snapshot starts with a magic number and a record count, followed by
+ * fixed or length-prefixed records written by the owning store.
+ */
+final class MappedSnapshot {
+
+    private MappedSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot of exactly {@code size} bytes to the given file.
+     *
+     * The snapshot is written to a temporary file next to the target, forced to disk and then
+     * moved over the target atomically, so a crash mid-write never leaves a partial snapshot.
+     *
+     * @param file The snapshot file, replaced if it already exists.
+     * @param size The number of bytes the writer will put.
+     * @param writer Fills the mapped buffer.
+     */
+    static void write(Path file, long size, Consumer<ByteBuffer> writer) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                writer.accept(buffer);
+                buffer.force();
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write snapshot " + file, ex);
+        }
+    }
+
+    /**
+     * Maps an existing snapshot file for reading.
+     *
+     * @param file The snapshot file.
+     * @return A read-only buffer over the whole file.
+     */
+    static ByteBuffer read(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read snapshot " + file, ex);
+        }
+    }
+
+    /**
+     * Reads and validates the snapshot header.
+     *
+     * @param buffer The snapshot buffer, positioned at the start.
+     * @param file The snapshot file, for error messages.
+     * @param magic The expected magic number.
+     * @param minRecordSize The smallest possible size of one record in bytes.
+     * @return The record count.
+     * @throws IllegalStateException If the header is wrong or the file is too short for the count.
+     */
+    static int readHeader(ByteBuffer buffer, Path file, int magic, int minRecordSize) {
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != magic) {
+            throw new IllegalStateException("Not a valid snapshot: " + file);
+        }
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minRecordSize > buffer.remaining()) {
+            throw new IllegalStateException("Truncated snapshot: " + file);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes {@link #putString} uses for the given encoded string.
+     */
+    static int stringSize(byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Encodes a possibly {@code null} string as UTF-8.
+     */
+    static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Puts a length-prefixed string, using a length of -1 for {@code null}.
+     */
+    static void putString(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    /**
+     * Reads a string written by {@link #putString}.
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Storage SPI for {@code User} records.
+ *
+ * Implementations are selected with the {@code storage.engine} property
+ * ({@code jpa} or {@code memory}).
+ */
+public interface UserStore {
+
+    /**
+     * Inserts or updates a user. A user without an ID is assigned one.
+     *
+     * @param user The user to store.
+     * @return The stored {@code User} object.
+     */
+    User save(User user);
+
+    /**
+     * Inserts or updates a batch of users in a single transaction where the engine supports one.
+     *
+     * @param users The users to store.
+     * @return The stored {@code User} objects; they may be detached from any persistence context.
+     */
+    List<User> saveAll(List<User> users);
+
+    /**
+     * Finds a user by their ID.
+     *
+     * @param id The ID of the user.
+     * @return The user, or an empty {@code Optional} if it does not exist.
+     */
+    Optional<User> findById(Long id);
+
+    /**
+     * Finds a user by their email address.
+     *
+     * @param email The email address of the user.
+     * @return The user, or an empty {@code Optional} if it does not exist.
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Checks if a user with the given email address exists.
+     *
+     * @param email The email address to check.
+     * @return {@code true} if a user with that email exists.
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Returns which of the given email addresses already belong to a user.
+     *
+     * @param emails The email addresses to check.
+     * @return The subset of {@code emails} that already exist.
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Retrieves the users with the most wins, best first.
+     *
+     * @param limit The maximum number of users to return.
+     * @return A list of at most {@code limit} users sorted by wins descending.
+     */
+    List<User> findTopByWins(int limit);
+
+    /**
+     * Retrieves all stored users.
+     *
+     * @return A list of all {@code User} objects.
+     */
+    List<User> findAll();
+
+    /**
+     * Retrieves the next page of users ordered by ID, starting after the given ID.
+     *
+     * @param afterId The last ID of the previous page, or 0 for the first page.
+     * @param size The page size.
+     * @return At most {@code size} users with an ID greater than {@code afterId}; empty once past the last user.
+     *         The users may be detached from any persistence context.
+     */
+    List<User> findPage(long afterId, int size);
+}
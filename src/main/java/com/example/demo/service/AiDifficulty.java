@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+/**
+ * How the AI chooses its moves, configured with {@code game.ai.difficulty}.
+ */
+public enum AiDifficulty {
+    /** Plays a random empty cell. */
+    RANDOM,
+    /** Plays the best move from the {@code PositionCache}; never loses. */
+    PERFECT
+}
@@ -0,0 +1,95 @@
+package com.example.demo.service;
+
+/**
+ * Maps 3x3 boards onto a symmetry-reduced canonical form.
+ *
+ * A board has eight symmetries (four rotations, each optionally mirrored). The canonical
+ * form of a board is the lexicographically smallest of its eight transformations, so every
+ * rotation and reflection of a position shares a single key.
+ */
+public final class BoardSymmetry {
+
+    /**
+     * The eight symmetries as cell permutations: cell {@code i} of the transformed board is
+     * cell {@code SYMMETRIES[k][i]} of the original board.
+     */
+    private static final int[][] SYMMETRIES = {
+            {0, 1, 2, 3, 4, 5, 6, 7, 8}, // identity
+            {6, 3, 0, 7, 4, 1, 8, 5, 2}, // rotate 90
+            {8, 7, 6, 5, 4, 3, 2, 1, 0}, // rotate 180
+            {2, 5, 8, 1, 4, 7, 0, 3, 6}, // rotate 270
+            {2, 1, 0, 5, 4, 3, 8, 7, 6}, // mirror vertical axis
+            {6, 7, 8, 3, 4, 5, 0, 1, 2}, // mirror horizontal axis
+            {0, 3, 6, 1, 4, 7, 2, 5, 8}, // mirror main diagonal
+            {8, 5, 2, 7, 4, 1, 6, 3, 0}  // mirror anti-diagonal
+    };
+
+    private BoardSymmetry() {
+    }
+
+    /**
+     * Returns the canonical key of a board.
+     *
+     * @param boardState The board as nine characters, row by row.
+     * @return The canonical board state.
+     */
+    public static String canonical(String boardState) {
+        return transform(boardState, canonicalSymmetry(boardState));
+    }
+
+    /**
+     * Returns the index of the symmetry that maps the board onto its canonical form.
+     *
+     * @param boardState The board as nine characters, row by row.
+     * @return A symmetry index usable with {@link #transform} and {@link #toOriginalCell}.
+     */
+    public static int canonicalSymmetry(String boardState) {
+        int best = 0;
+        for (int k = 1; k < SYMMETRIES.length; k++) {
+            if (compare(boardState, k, best) < 0) {
+                best = k;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Applies a symmetry to a board.
+     *
+     * @param boardState The board as nine characters, row by row.
+     * @param symmetry The symmetry index.
+     * @return The transformed board state.
+     */
+    public static String transform(String boardState, int symmetry) {
+        int[] permutation = SYMMETRIES[symmetry];
+        char[] transformed = new char[9];
+        for (int i = 0; i < transformed.length; i++) {
+            transformed[i] = boardState.charAt(permutation[i]);
+        }
+        return new String(transformed);
+    }
+
+    /**
+     * Maps a cell of a transformed board back to the matching cell of the original board.
+     *
+     * @param cell The cell index on the transformed board.
+     * @param symmetry The symmetry index that produced the transformed board.
+     * @return The cell index on the original board.
+     */
+    public static int toOriginalCell(int cell, int symmetry) {
+        return SYMMETRIES[symmetry][cell];
+    }
+
+    /**
+     * Compares the board under two symmetries without building either string.
+     */
+    private static int compare(String boardState, int first, int second) {
+        for (int i = 0; i < 9; i++) {
+            int diff = boardState.charAt(SYMMETRIES[first][i]) - boardState.charAt(SYMMETRIES[second][i]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+}
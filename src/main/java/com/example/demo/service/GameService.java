@@ -2,9 +2,10 @@ package com.example.demo.service;
 
 import com.example.demo.entity.Game;
 import com.example.demo.entity.User;
-import com.example.demo.repository.GameRepository;
-import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.GameStore;
+import com.example.demo.repository.UserStore;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -21,10 +22,19 @@ import java.util.Random;
 public class GameService {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserStore userStore;
 
     @Autowired
-    private GameRepository gameRepository;
+    private GameStore gameStore;
+
+    @Autowired
+    private PositionCache positionCache;
+
+    @Autowired
+    private PositionAnalyticsService positionAnalyticsService;
+
+    @Value("${game.ai.difficulty:random}")
+    private AiDifficulty aiDifficulty;
 
     private static final char EMPTY = '-';
     private static final char X = 'X';
@@ -38,7 +48,7 @@ public class GameService {
      */
     public Game createNewGame(User user) {
         Game game = new Game(user, "---------"); // 3x3 board initially empty
-        gameRepository.save(game);
+        gameStore.save(game);
         return game;
     }
 
@@ -49,14 +59,29 @@ public class GameService {
      * @param position The position on the board where the move is made.
      * @param player The player making the move ('X' or 'O').
      * @return The updated {@code Game} object.
+     * @throws IllegalStateException If the game is over, the position is invalid or taken,
+     *         or it is not {@code player}'s turn.
      */
     public Game makeMove(Game game, int position, char player) {
+        if (game.getResult() != null) {
+            throw new IllegalStateException("Game is already over.");
+        }
         char[] board = game.getBoardState().toCharArray();
-        if (board[position] == EMPTY) {
-            board[position] = player;
-            game.setBoardState(new String(board));
+        if (position < 0 || position >= board.length) {
+            throw new IllegalStateException("Position " + position + " is not on the board.");
         }
-        return gameRepository.save(game);
+        if (board[position] != EMPTY) {
+            throw new IllegalStateException("Position " + position + " is already taken.");
+        }
+        if (player != playerToMove(board)) {
+            throw new IllegalStateException("It is not " + player + "'s turn.");
+        }
+        board[position] = player;
+        game.setBoardState(new String(board));
+        if (countMarks(board) == 2) {
+            game.setOpening(game.getBoardState());
+        }
+        return gameStore.save(game);
     }
 
     /**
@@ -66,29 +91,25 @@ public class GameService {
      * @return The winner ('X' or 'O') or {@code EMPTY} if there is no winner yet.
      */
     public char checkWinner(Game game) {
-        char[] board = game.getBoardState().toCharArray();
-        // Check rows, columns, and diagonals
-        for (int i = 0; i < 3; i++) {
-            if (board[i * 3] == board[i * 3 + 1] && board[i * 3] == board[i * 3 + 2] && board[i * 3] != EMPTY)
-                return board[i * 3];
-            if (board[i] == board[i + 3] && board[i] == board[i + 6] && board[i] != EMPTY)
-                return board[i];
-        }
-        if (board[0] == board[4] && board[0] == board[8] && board[0] != EMPTY)
-            return board[0];
-        if (board[2] == board[4] && board[2] == board[6] && board[2] != EMPTY)
-            return board[2];
-        return EMPTY;
+        return PositionCache.winnerOf(game.getBoardState().toCharArray());
     }
 
     /**
      * Makes a move for the AI in the game.
      *
-     * The AI selects a random available position and makes a move.
+     * With {@code game.ai.difficulty=random} (the default) the AI selects a random available
+     * position. With {@code perfect} it plays the best move from the shared {@code PositionCache}.
      *
      * @param game The game in which the AI makes a move.
      */
     public void aiMove(Game game) {
+        if (aiDifficulty == AiDifficulty.PERFECT) {
+            PositionEvaluation evaluation = positionCache.evaluate(game.getBoardState(), O);
+            if (evaluation.bestMove() >= 0) {
+                makeMove(game, evaluation.bestMove(), O);
+            }
+            return;
+        }
         char[] board = game.getBoardState().toCharArray();
         List<Integer> availablePositions = new ArrayList<>();
         for (int i = 0; i < board.length; i++) {
@@ -122,8 +143,9 @@ public class GameService {
                 user.setDraws(user.getDraws() + 1);
                 break;
         }
-        userRepository.save(user);
-        gameRepository.save(game);
+        userStore.save(user);
+        gameStore.save(game);
+        positionAnalyticsService.recordFinishedGame(game.getBoardState(), game.getOpening());
     }
 
     /**
@@ -134,7 +156,7 @@ public class GameService {
      * @throws RuntimeException If the game is not found.
      */
     public Game getGameById(Long gameId) {
-        return gameRepository.findById(gameId).orElseThrow(() -> new RuntimeException("Game not found"));
+        return gameStore.findById(gameId).orElseThrow(() -> new RuntimeException("Game not found"));
     }
 
     /**
@@ -144,7 +166,24 @@ public class GameService {
      * @return {@code true} if the user has already won a game, {@code false} otherwise.
      */
     public boolean checkAlreadyWin(Game game) {
-        return gameRepository.existsByIdAndResult(game.getId(), "WIN");
+        return gameStore.existsByIdAndResult(game.getId(), "WIN");
+    }
+
+    /**
+     * Determines whose turn it is. X always moves first.
+     */
+    private static char playerToMove(char[] board) {
+        return countMarks(board) % 2 == 0 ? X : O;
+    }
+
+    private static int countMarks(char[] board) {
+        int marks = 0;
+        for (char cell : board) {
+            if (cell != EMPTY) {
+                marks++;
+            }
+        }
+        return marks;
     }
 
     /**
@@ -153,6 +192,6 @@ public class GameService {
      * @return A list of all {@code Game} objects.
      */
     public List<Game> getAllGames() {
-        return gameRepository.findAll();
+        return gameStore.findAll();
     }
 }
@@ -0,0 +1,97 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.FinishedGame;
+import com.example.demo.repository.GameStore;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service class for position-frequency analytics.
+ *
+ * All positions are counted by their canonical key, so rotations and reflections of the
+ * same position are reported together. Only finished games are counted: each contributes
+ * the opening stored on it (the board after the first two moves) and its final board.
+ * The counts are loaded once from the finished games in the store on startup and then
+ * updated as games finish.
+ */
+@Service
+public class PositionAnalyticsService {
+
+    @Autowired
+    private GameStore gameStore;
+
+    private final Map<String, LongAdder> openingCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> finalPositionCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Counts the openings and final positions of the games finished before startup.
+     */
+    @PostConstruct
+    public void loadFinishedGames() {
+        for (FinishedGame game : gameStore.findFinishedGames()) {
+            recordFinishedGame(game.boardState(), game.opening());
+        }
+    }
+
+    /**
+     * Records the opening and final position of a finished game.
+     *
+     * @param boardState The board at the end of the game.
+     * @param opening The board after the first two moves, or {@code null} if the game has none.
+     */
+    public void recordFinishedGame(String boardState, String opening) {
+        if (boardState != null) {
+            increment(finalPositionCounts, boardState);
+        }
+        if (opening != null) {
+            increment(openingCounts, opening);
+        }
+    }
+
+    /**
+     * Retrieves the most frequently played openings.
+     *
+     * @param limit The maximum number of openings to return.
+     * @return Canonical opening positions mapped to how often they were played, most frequent first.
+     * @throws IllegalStateException If {@code limit} is less than 1.
+     */
+    public Map<String, Long> getTopOpenings(int limit) {
+        return top(openingCounts, limit);
+    }
+
+    /**
+     * Retrieves the most frequent final positions of finished games.
+     *
+     * @param limit The maximum number of positions to return.
+     * @return Canonical final positions mapped to how many games ended in them, most frequent first.
+     * @throws IllegalStateException If {@code limit} is less than 1.
+     */
+    public Map<String, Long> getTopFinalPositions(int limit) {
+        return top(finalPositionCounts, limit);
+    }
+
+    private static void increment(Map<String, LongAdder> counts, String boardState) {
+        counts.computeIfAbsent(BoardSymmetry.canonical(boardState), key -> new LongAdder()).increment();
+    }
+
+    private static Map<String, Long> top(Map<String, LongAdder> counts, int limit) {
+        if (limit < 1) {
+            throw new IllegalStateException("Limit must be at least 1.");
+        }
+        Map<String, Long> snapshot = new HashMap<>();
+        counts.forEach((position, count) -> snapshot.put(position, count.sum()));
+        Map<String, Long> top = new LinkedHashMap<>();
+        snapshot.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+}
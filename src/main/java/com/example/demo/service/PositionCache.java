@@ -0,0 +1,117 @@
+package com.example.demo.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of evaluated Tic-Tac-Toe positions.
+ *
+ * Positions are solved with minimax and stored under the side to move plus the canonical
+ * board, so all eight rotations and reflections of a position share one entry. Among equal
+ * outcomes the solver prefers the quickest win and the slowest loss.
+ */
+@Component
+public class PositionCache {
+
+    private static final char EMPTY = '-';
+    private static final char X = 'X';
+    private static final char O = 'O';
+
+    private final Map<String, PositionEvaluation> evaluations = new ConcurrentHashMap<>();
+
+    /**
+     * Evaluates a board position.
+     *
+     * @param boardState The board as nine characters, row by row.
+     * @param player The side to move ('X' or 'O').
+     * @return The best move for {@code player}, in the board's own orientation, and the
+     *         outcome with perfect play.
+     * @throws IllegalArgumentException If {@code player} is not 'X' or 'O'.
+     */
+    public PositionEvaluation evaluate(String boardState, char player) {
+        if (player != X && player != O) {
+            throw new IllegalArgumentException("Unknown player: " + player);
+        }
+        int symmetry = BoardSymmetry.canonicalSymmetry(boardState);
+        PositionEvaluation canonical = evaluateCanonical(BoardSymmetry.transform(boardState, symmetry), player);
+        int bestMove = canonical.bestMove() < 0 ? -1 : BoardSymmetry.toOriginalCell(canonical.bestMove(), symmetry);
+        return new PositionEvaluation(bestMove, canonical.outcome(), canonical.plies());
+    }
+
+    /**
+     * Returns the number of distinct positions evaluated so far.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return evaluations.size();
+    }
+
+    /**
+     * Determines the winner of a board.
+     *
+     * @param board The board cells, row by row.
+     * @return The winner ('X' or 'O') or {@code EMPTY} if there is no winner.
+     */
+    static char winnerOf(char[] board) {
+        for (int i = 0; i < 3; i++) {
+            if (board[i * 3] == board[i * 3 + 1] && board[i * 3] == board[i * 3 + 2] && board[i * 3] != EMPTY)
+                return board[i * 3];
+            if (board[i] == board[i + 3] && board[i] == board[i + 6] && board[i] != EMPTY)
+                return board[i];
+        }
+        if (board[0] == board[4] && board[0] == board[8] && board[0] != EMPTY)
+            return board[0];
+        if (board[2] == board[4] && board[2] == board[6] && board[2] != EMPTY)
+            return board[2];
+        return EMPTY;
+    }
+
+    /**
+     * Evaluates a board that is already in canonical form, using and filling the cache.
+     * Not written with {@code computeIfAbsent} because the computation recurses into the map.
+     */
+    private PositionEvaluation evaluateCanonical(String canonicalBoard, char player) {
+        String key = player + canonicalBoard;
+        PositionEvaluation cached = evaluations.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        PositionEvaluation evaluation = solve(canonicalBoard.toCharArray(), player);
+        PositionEvaluation existing = evaluations.putIfAbsent(key, evaluation);
+        return existing != null ? existing : evaluation;
+    }
+
+    private PositionEvaluation solve(char[] board, char player) {
+        char winner = winnerOf(board);
+        if (winner != EMPTY) {
+            return new PositionEvaluation(-1, winner, 0);
+        }
+
+        char opponent = player == X ? O : X;
+        int bestMove = -1;
+        int bestScore = Integer.MIN_VALUE;
+        PositionEvaluation bestChild = null;
+        for (int i = 0; i < board.length; i++) {
+            if (board[i] != EMPTY) {
+                continue;
+            }
+            board[i] = player;
+            PositionEvaluation child = evaluateCanonical(BoardSymmetry.canonical(new String(board)), opponent);
+            board[i] = EMPTY;
+            int score = child.outcome() == player ? 10 - child.plies()
+                    : child.outcome() == EMPTY ? 0 : child.plies() - 10;
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = i;
+                bestChild = child;
+            }
+        }
+        if (bestChild == null) {
+            return new PositionEvaluation(-1, EMPTY, 0);
+        }
+        return new PositionEvaluation(bestMove, bestChild.outcome(), bestChild.plies() + 1);
+    }
+}
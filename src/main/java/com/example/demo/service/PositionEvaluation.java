@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+/**
+ * The result of evaluating a board position with perfect play from both sides.
+ *
+ * @param bestMove The board index to play, or -1 if the game is already over.
+ * @param outcome 'X', 'O', or '-' for a draw.
+ * @param plies The number of moves left until the game ends.
+ */
+public record PositionEvaluation(int bestMove, char outcome, int plies) {
+}
@@ -0,0 +1,386 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.BulkImportError;
+import com.example.demo.entity.BulkImportResult;
+import com.example.demo.entity.User;
+import com.example.demo.entity.UserDto;
+import com.example.demo.repository.UserStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service class for importing and exporting users in bulk.
+ *
+ * Imports are read line by line from CSV or NDJSON, deduplicated by email and written
+ * in batches, so a bad row is reported without aborting the rest of the file. Only the
+ * set of emails seen so far grows with the input (one entry per distinct email); rows
+ * and reported errors are bounded. Exports page through the users by ID and write them
+ * out as they are read.
+ */
+@Service
+public class UserBulkService {
+
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final int BATCH_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 100;
+    static final int MAX_RECORD_LENGTH = 65536;
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Imports users from a CSV or NDJSON stream.
+     *
+     * CSV input must start with a header row containing {@code name} and {@code email} columns;
+     * quoted fields may span lines. NDJSON input holds one {@code UserDto} object per line.
+     * Blank lines and a leading byte order mark are ignored.
+     *
+     * @param input The stream to read users from.
+     * @param format {@link #CSV} or {@link #NDJSON}.
+     * @return The number of imported and rejected users, with the errors of the first
+     *         {@value #MAX_REPORTED_ERRORS} rejected rows.
+     * @throws IOException If the stream cannot be read.
+     * @throws IllegalStateException If the format is not supported or the CSV header is invalid.
+     */
+    public BulkImportResult importUsers(InputStream input, String format) throws IOException {
+        boolean csv = isCsv(format);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        skipByteOrderMark(reader);
+        ImportBatch batch = new ImportBatch();
+        if (csv) {
+            importCsv(reader, batch);
+        } else {
+            importNdjson(reader, batch);
+        }
+        batch.flush();
+        return batch.result;
+    }
+
+    private void importCsv(BufferedReader reader, ImportBatch batch) throws IOException {
+        CsvRecordReader records = new CsvRecordReader(reader);
+        int nameColumn = -1;
+        int emailColumn = -1;
+        while (true) {
+            List<String> fields;
+            try {
+                fields = records.next();
+            } catch (IllegalStateException ex) {
+                addError(batch.result, records.recordLine(), ex.getMessage() + " Rest of file skipped.");
+                return;
+            }
+            if (fields == null) {
+                return;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            if (emailColumn < 0) {
+                nameColumn = fields.indexOf("name");
+                emailColumn = fields.indexOf("email");
+                if (nameColumn < 0 || emailColumn < 0) {
+                    throw new IllegalStateException("CSV header must contain name and email columns.");
+                }
+                continue;
+            }
+            UserDto userDto = new UserDto();
+            userDto.setName(nameColumn < fields.size() ? fields.get(nameColumn) : null);
+            userDto.setEmail(emailColumn < fields.size() ? fields.get(emailColumn) : null);
+            batch.add(userDto, records.recordLine());
+        }
+    }
+
+    private void importNdjson(BufferedReader reader, ImportBatch batch) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    addError(batch.result, lineNumber, "Row is not a JSON object.");
+                    continue;
+                }
+                // Exported users carry their ID and statistics too; only name and email are imported.
+                UserDto userDto = objectMapper.readerFor(UserDto.class)
+                        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .readValue(node);
+                batch.add(userDto, lineNumber);
+            } catch (JsonProcessingException ex) {
+                addError(batch.result, lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes all users with their win, loss and draw counts to the given stream.
+     *
+     * @param output The stream to write to.
+     * @param format {@link #CSV} or {@link #NDJSON}.
+     * @throws IOException If the stream cannot be written.
+     * @throws IllegalStateException If the format is not supported.
+     */
+    public void exportUsers(OutputStream output, String format) throws IOException {
+        boolean csv = isCsv(format);
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        if (csv) {
+            writer.write("id,name,email,wins,losses,draws\n");
+        }
+        List<User> page;
+        long lastId = 0;
+        while (!(page = userStore.findPage(lastId, BATCH_SIZE)).isEmpty()) {
+            for (User user : page) {
+                if (csv) {
+                    writer.write(user.getId() + "," + csvField(user.getName()) + "," + csvField(user.getEmail()) + ","
+                            + user.getWins() + "," + user.getLosses() + "," + user.getDraws() + "\n");
+                } else {
+                    writer.write(objectMapper.writeValueAsString(user));
+                    writer.write('\n');
+                }
+            }
+            lastId = page.get(page.size() - 1).getId();
+            writer.flush();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Collects validated rows of an import and saves them in batches of {@value #BATCH_SIZE}.
+     */
+    private final class ImportBatch {
+
+        private final BulkImportResult result = new BulkImportResult();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<User> users = new ArrayList<>(BATCH_SIZE);
+        private final List<Long> lines = new ArrayList<>(BATCH_SIZE);
+
+        /**
+         * Validates a row and queues it, saving the batch once it is full.
+         */
+        void add(UserDto userDto, long line) {
+            String email = UserService.normalizeEmail(userDto.getEmail());
+            if (email == null || email.isEmpty()) {
+                addError(result, line, "Missing email.");
+                return;
+            }
+            if (!seenEmails.add(email)) {
+                addError(result, line, "Duplicate email " + email + " in file.");
+                return;
+            }
+            users.add(new User(userDto.getName(), email));
+            lines.add(line);
+            if (users.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Saves the pending users, skipping emails that already belong to a user.
+         * If the batch cannot be written, every row in it is reported as failed.
+         */
+        void flush() {
+            if (users.isEmpty()) {
+                return;
+            }
+            Set<String> existing = userStore.findExistingEmails(users.stream().map(User::getEmail).toList());
+            List<User> toSave = new ArrayList<>(users.size());
+            List<Long> savedLines = new ArrayList<>(users.size());
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                if (existing.contains(user.getEmail())) {
+                    addError(result, lines.get(i), "User email " + user.getEmail() + " already exists.");
+                } else {
+                    toSave.add(user);
+                    savedLines.add(lines.get(i));
+                }
+            }
+            try {
+                userStore.saveAll(toSave);
+                result.setImported(result.getImported() + toSave.size());
+            } catch (RuntimeException ex) {
+                for (Long line : savedLines) {
+                    addError(result, line, "Could not save user: " + ex.getMessage());
+                }
+            }
+            users.clear();
+            lines.clear();
+        }
+    }
+
+    /**
+     * Counts a rejected row and lists it if fewer than {@value #MAX_REPORTED_ERRORS} errors are listed.
+     */
+    private static void addError(BulkImportResult result, long line, String message) {
+        result.setErrorCount(result.getErrorCount() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new BulkImportError(line, message));
+        }
+    }
+
+    private static boolean isCsv(String format) {
+        if (format != null && format.startsWith(CSV)) {
+            return true;
+        }
+        if (format != null && format.startsWith(NDJSON)) {
+            return false;
+        }
+        throw new IllegalStateException("Unsupported format: " + format);
+    }
+
+    /**
+     * Skips a UTF-8 byte order mark, as written by spreadsheet programs, at the start of the input.
+     */
+    private static void skipByteOrderMark(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    /**
+     * Splits a single CSV record into fields.
+     */
+    static List<String> parseCsvLine(String line) throws IOException {
+        return new CsvRecordReader(new StringReader(line)).next();
+    }
+
+    /**
+     * Quotes a field if the importer would otherwise split or trim it.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean plain = value.equals(value.trim()) && value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0;
+        return plain ? value : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads CSV records one at a time. Quoted fields may contain commas, line breaks and quotes
+     * written as {@code ""}, and are taken as is; unquoted fields are trimmed. Records end at
+     * {@code \n}, {@code \r\n} or {@code \r}.
+     */
+    static final class CsvRecordReader {
+
+        private static final int NONE = -2;
+
+        private final Reader reader;
+        private int pushedBack = NONE;
+        private long line = 1;
+        private long recordLine = 1;
+
+        CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the line on which the record last returned by {@link #next} started.
+         */
+        long recordLine() {
+            return recordLine;
+        }
+
+        /**
+         * Reads the next record.
+         *
+         * @return The fields of the record, or {@code null} at the end of the input.
+         * @throws IOException If the input cannot be read.
+         * @throws IllegalStateException If a quoted field is not closed, or the record is longer
+         *         than {@value #MAX_RECORD_LENGTH} characters.
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            String quotedValue = null;
+            boolean inQuotes = false;
+            int length = 0;
+            while (c != -1) {
+                if (++length > MAX_RECORD_LENGTH) {
+                    throw new IllegalStateException("Row is longer than " + MAX_RECORD_LENGTH + " characters.");
+                }
+                if (inQuotes) {
+                    if (c == '"') {
+                        int next = read();
+                        if (next != '"') {
+                            inQuotes = false;
+                            quotedValue = field.toString();
+                            c = next;
+                            continue;
+                        }
+                        field.append('"');
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && quotedValue == null && field.toString().isBlank()) {
+                    field.setLength(0);
+                    inQuotes = true;
+                } else if (c == ',') {
+                    fields.add(quotedValue != null ? quotedValue : field.toString().trim());
+                    field.setLength(0);
+                    quotedValue = null;
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pushedBack = next;
+                        }
+                    }
+                    line++;
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            if (inQuotes) {
+                throw new IllegalStateException("Unterminated quoted field.");
+            }
+            fields.add(quotedValue != null ? quotedValue : field.toString().trim());
+            return fields;
+        }
+
+        private int read() throws IOException {
+            if (pushedBack != NONE) {
+                int c = pushedBack;
+                pushedBack = NONE;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
@@ -4,9 +4,8 @@ import com.example.demo.entity.User;
 import com.example.demo.entity.UserDto;
 import com.example.demo.exception.UserEmailAlreadyExistsException;
 import com.example.demo.exception.UserNotFoundException;
-import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.UserStore;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,7 +20,7 @@ import java.util.List;
 public class UserService {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserStore userStore;
 
     /**
      * Creates a new user based on the provided {@code UserDto}.
@@ -31,11 +30,12 @@ public class UserService {
      * @throws UserEmailAlreadyExistsException if a user with the same email already exists.
      */
     public User createUser(UserDto userDto) {
-        if (userRepository.existsByEmail(userDto.getEmail())) {
-            throw new UserEmailAlreadyExistsException("User email " + userDto.getEmail() + " already exists.");
+        String email = normalizeEmail(userDto.getEmail());
+        if (userStore.existsByEmail(email)) {
+            throw new UserEmailAlreadyExistsException("User email " + email + " already exists.");
         }
-        User user = new User(userDto.getName(), userDto.getEmail());
-        return userRepository.save(user);
+        User user = new User(userDto.getName(), email);
+        return userStore.save(user);
     }
 
     /**
@@ -46,7 +46,7 @@ public class UserService {
      * @throws UserNotFoundException if no user with the given email is found.
      */
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userStore.findByEmail(normalizeEmail(email))
                 .orElseThrow(() -> new UserNotFoundException("User email not found: " + email));
     }
 
@@ -56,8 +56,7 @@ public class UserService {
      * @return A list of the top users, limited to a maximum of 10 users.
      */
     public List<User> getLeaderboard() {
-        return userRepository.findAll(Sort.by(Sort.Direction.DESC, "wins"))
-                .subList(0, Math.min(10, (int) userRepository.count()));
+        return userStore.findTopByWins(10);
     }
 
     /**
@@ -66,6 +65,16 @@ public class UserService {
      * @return A list of all {@code User} objects.
      */
     public List<User> getAllUser() {
-        return userRepository.findAll();
+        return userStore.findAll();
+    }
+
+    /**
+     * Normalizes an email address the way it is stored, by trimming surrounding whitespace.
+     *
+     * @param email The email address as entered.
+     * @return The normalized email address, or {@code null} if {@code email} is {@code null}.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim();
     }
 }
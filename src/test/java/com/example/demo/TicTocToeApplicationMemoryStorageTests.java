@@ -0,0 +1,49 @@
+package com.example.demo;
+
+import com.example.demo.entity.User;
+import com.example.demo.repository.GameStore;
+import com.example.demo.repository.InMemoryGameStore;
+import com.example.demo.repository.InMemorySnapshotScheduler;
+import com.example.demo.repository.InMemoryUserStore;
+import com.example.demo.repository.UserStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"storage.engine=memory",
+		"storage.memory.snapshot-dir=target/memory-storage-tests"
+})
+class TicTocToeApplicationMemoryStorageTests {
+
+	@Autowired
+	private GameStore gameStore;
+
+	@Autowired
+	private UserStore userStore;
+
+	@Autowired
+	private InMemorySnapshotScheduler snapshotScheduler;
+
+	@Test
+	void contextLoads() {
+		assertThat(gameStore).isInstanceOf(InMemoryGameStore.class);
+		assertThat(userStore).isInstanceOf(InMemoryUserStore.class);
+	}
+
+	@Test
+	void writesSnapshotsThroughStoreBeans() {
+		userStore.save(new User("Ann", "ann-" + System.nanoTime() + "@example.com"));
+
+		snapshotScheduler.writeSnapshots();
+
+		assertThat(Files.exists(Path.of("target/memory-storage-tests/users.snapshot"))).isTrue();
+		assertThat(Files.exists(Path.of("target/memory-storage-tests/games.snapshot"))).isTrue();
+	}
+
+}
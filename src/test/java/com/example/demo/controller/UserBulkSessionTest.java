@@ -0,0 +1,83 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.UserBulkService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that bulk import and export do not keep every user in the request's persistence context.
+ *
+ * The test binds its own entity manager the way open-in-view does, so the request runs against
+ * it and its size can be inspected afterwards. It uses a throwaway SQLite file under target.
+ */
+@SpringBootTest(properties = {
+		"url=jdbc:sqlite:target/user-bulk-session-test.db",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class UserBulkSessionTest {
+
+	private static final int ROWS = 3000;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserBulkService userBulkService;
+
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void bindEntityManager() {
+		entityManager = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+	}
+
+	@AfterEach
+	void unbindEntityManager() {
+		TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+		entityManager.close();
+	}
+
+	@Test
+	void importAndExportDoNotGrowPersistenceContext() throws Exception {
+		StringBuilder csv = new StringBuilder("name,email\n");
+		for (int i = 0; i < ROWS; i++) {
+			csv.append("User ").append(i).append(",session").append(i).append("@example.com\n");
+		}
+
+		mockMvc.perform(post("/users/bulk").contentType(UserBulkService.CSV).content(csv.toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(ROWS));
+		assertThat(managedEntities()).isZero();
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		userBulkService.exportUsers(output, UserBulkService.CSV);
+		assertThat(output.toString().lines()).hasSize(ROWS + 1);
+		assertThat(managedEntities()).isZero();
+	}
+
+	private int managedEntities() {
+		return entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities();
+	}
+}
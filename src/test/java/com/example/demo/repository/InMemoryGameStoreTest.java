@@ -0,0 +1,161 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Game;
+import com.example.demo.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryGameStoreTest {
+
+	@TempDir
+	Path snapshotDir;
+
+	@Test
+	void packRoundTripsEveryCellValueAndResult() {
+		String[] boards = {"---------", "XXXXXXXXX", "OOOOOOOOO", "XO-OX-XO-", "-OX-XO-OX"};
+		String[] results = {null, "WIN", "LOSS", "DRAW"};
+		for (String board : boards) {
+			for (String result : results) {
+				int packed = InMemoryGameStore.pack(board, result);
+				assertThat(InMemoryGameStore.unpackBoard(packed)).isEqualTo(board);
+				assertThat(InMemoryGameStore.unpackResult(packed)).isEqualTo(result);
+			}
+		}
+	}
+
+	@Test
+	void saveAssignsIdsAndFindByIdRebuildsGame() {
+		InMemoryUserStore userStore = new InMemoryUserStore();
+		User user = userStore.save(new User("Ann", "ann@example.com"));
+		InMemoryGameStore gameStore = gameStore(userStore, "");
+
+		Game game = gameStore.save(new Game(user, "X---O----"));
+		game.setOpening("X---O----");
+		game.setResult("LOSS");
+		gameStore.save(game);
+
+		Game found = gameStore.findById(game.getId()).orElseThrow();
+		assertThat(found.getId()).isEqualTo(1L);
+		assertThat(found.getBoardState()).isEqualTo("X---O----");
+		assertThat(found.getResult()).isEqualTo("LOSS");
+		assertThat(found.getUser().getEmail()).isEqualTo("ann@example.com");
+		assertThat(gameStore.existsByIdAndResult(game.getId(), "LOSS")).isTrue();
+		assertThat(gameStore.existsByIdAndResult(game.getId(), "WIN")).isFalse();
+		assertThat(gameStore.findById(2L)).isEmpty();
+		assertThat(found.getOpening()).isEqualTo("X---O----");
+		assertThat(gameStore.findFinishedGames()).containsExactly(new FinishedGame("X---O----", "X---O----"));
+	}
+
+	@Test
+	void snapshotRoundTrip() {
+		InMemoryUserStore userStore = new InMemoryUserStore();
+		User user = userStore.save(new User("Ann", "ann@example.com"));
+		InMemoryGameStore gameStore = gameStore(userStore, snapshotDir.toString());
+		Game first = new Game(user, "XOX-O-X--");
+		first.setOpening("X---O----");
+		first.setResult("WIN");
+		first.setDatePlayed(LocalDateTime.of(2024, 5, 1, 12, 30, 15));
+		gameStore.save(first);
+		Game second = new Game(null, "---------");
+		second.setDatePlayed(null);
+		gameStore.save(second);
+		for (int i = 0; i < 100; i++) {
+			gameStore.save(new Game(user, "----X----"));
+		}
+		gameStore.writeSnapshot();
+
+		InMemoryGameStore loaded = gameStore(userStore, snapshotDir.toString());
+		loaded.loadSnapshot();
+
+		assertThat(loaded.findAll()).hasSize(102);
+		Game loadedFirst = loaded.findById(1L).orElseThrow();
+		assertThat(loadedFirst.getBoardState()).isEqualTo("XOX-O-X--");
+		assertThat(loadedFirst.getResult()).isEqualTo("WIN");
+		assertThat(loadedFirst.getOpening()).isEqualTo("X---O----");
+		assertThat(loadedFirst.getDatePlayed()).isEqualTo(first.getDatePlayed());
+		assertThat(loadedFirst.getUser().getId()).isEqualTo(user.getId());
+		Game loadedSecond = loaded.findById(2L).orElseThrow();
+		assertThat(loadedSecond.getUser()).isNull();
+		assertThat(loadedSecond.getDatePlayed()).isNull();
+		assertThat(loadedSecond.getResult()).isNull();
+		assertThat(loadedSecond.getOpening()).isNull();
+	}
+
+	@Test
+	void loadsSnapshotWrittenBeforeOpeningsWereStored() throws Exception {
+		ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES);
+		buffer.putInt(0x47414D45).putInt(1);
+		buffer.putLong(0).putInt(InMemoryGameStore.pack("XXXOO----", "WIN")).putLong(Long.MIN_VALUE);
+		Files.write(snapshotDir.resolve("games.snapshot"), buffer.array());
+
+		InMemoryGameStore loaded = gameStore(new InMemoryUserStore(), snapshotDir.toString());
+		loaded.loadSnapshot();
+
+		assertThat(loaded.findFinishedGames()).containsExactly(new FinishedGame("XXXOO----", null));
+	}
+
+	@Test
+	void loadRejectsTruncatedSnapshot() throws Exception {
+		InMemoryGameStore gameStore = gameStore(new InMemoryUserStore(), snapshotDir.toString());
+		for (int i = 0; i < 3; i++) {
+			gameStore.save(new Game(null, "---------"));
+		}
+		gameStore.writeSnapshot();
+		Path file = snapshotDir.resolve("games.snapshot");
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+
+		InMemoryGameStore loaded = gameStore(new InMemoryUserStore(), snapshotDir.toString());
+		assertThatThrownBy(loaded::loadSnapshot).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void loadRejectsGamesOfUsersMissingFromUserSnapshot() {
+		InMemoryUserStore userStore = new InMemoryUserStore();
+		User first = userStore.save(new User("Ann", "ann@example.com"));
+		User second = userStore.save(new User("Bob", "bob@example.com"));
+		InMemoryGameStore gameStore = gameStore(userStore, snapshotDir.toString());
+		gameStore.save(new Game(first, "---------"));
+		gameStore.save(new Game(second, "---------"));
+		gameStore.writeSnapshot();
+
+		InMemoryUserStore staleUserStore = new InMemoryUserStore();
+		staleUserStore.save(new User("Ann", "ann@example.com"));
+		InMemoryGameStore loaded = gameStore(staleUserStore, snapshotDir.toString());
+
+		assertThatThrownBy(loaded::loadSnapshot)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("user 2");
+		assertThat(loaded.findAll()).isEmpty();
+	}
+
+	@Test
+	void preparedSnapshotKeepsStateAtCaptureTime() {
+		InMemoryGameStore gameStore = gameStore(new InMemoryUserStore(), snapshotDir.toString());
+		gameStore.save(new Game(null, "X--------"));
+		Runnable write = gameStore.prepareSnapshot();
+		gameStore.save(new Game(null, "---------"));
+		write.run();
+
+		InMemoryGameStore loaded = gameStore(new InMemoryUserStore(), snapshotDir.toString());
+		loaded.loadSnapshot();
+		assertThat(loaded.findAll()).extracting(Game::getBoardState).containsExactly("X--------");
+	}
+
+	private static InMemoryGameStore gameStore(UserStore userStore, String snapshotDir) {
+		InMemoryGameStore gameStore = new InMemoryGameStore();
+		ReflectionTestUtils.setField(gameStore, "userStore", userStore);
+		ReflectionTestUtils.setField(gameStore, "snapshotDir", snapshotDir);
+		return gameStore;
+	}
+}
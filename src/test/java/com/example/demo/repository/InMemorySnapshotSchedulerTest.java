@@ -0,0 +1,58 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Game;
+import com.example.demo.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySnapshotSchedulerTest {
+
+	@TempDir
+	Path snapshotDir;
+
+	@Test
+	void writesSnapshotsThatLoadTogether() {
+		InMemoryUserStore userStore = userStore();
+		InMemoryGameStore gameStore = gameStore(userStore);
+		for (int i = 0; i < 3; i++) {
+			User user = userStore.save(new User("User " + i, "user" + i + "@example.com"));
+			Game game = new Game(user, "X---O----");
+			game.setResult("DRAW");
+			gameStore.save(game);
+		}
+
+		scheduler(gameStore, userStore).writeSnapshots();
+
+		InMemoryUserStore loadedUsers = userStore();
+		loadedUsers.loadSnapshot();
+		InMemoryGameStore loadedGames = gameStore(loadedUsers);
+		loadedGames.loadSnapshot();
+		assertThat(loadedGames.findAll()).extracting(game -> game.getUser().getEmail())
+				.containsExactly("user0@example.com", "user1@example.com", "user2@example.com");
+	}
+
+	private InMemoryUserStore userStore() {
+		InMemoryUserStore userStore = new InMemoryUserStore();
+		ReflectionTestUtils.setField(userStore, "snapshotDir", snapshotDir.toString());
+		return userStore;
+	}
+
+	private InMemoryGameStore gameStore(InMemoryUserStore userStore) {
+		InMemoryGameStore gameStore = new InMemoryGameStore();
+		ReflectionTestUtils.setField(gameStore, "userStore", userStore);
+		ReflectionTestUtils.setField(gameStore, "snapshotDir", snapshotDir.toString());
+		return gameStore;
+	}
+
+	private static InMemorySnapshotScheduler scheduler(InMemoryGameStore gameStore, InMemoryUserStore userStore) {
+		InMemorySnapshotScheduler scheduler = new InMemorySnapshotScheduler();
+		ReflectionTestUtils.setField(scheduler, "gameStore", gameStore);
+		ReflectionTestUtils.setField(scheduler, "userStore", userStore);
+		return scheduler;
+	}
+}
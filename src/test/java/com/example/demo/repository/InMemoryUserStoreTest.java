@@ -0,0 +1,115 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryUserStoreTest {
+
+	@TempDir
+	Path snapshotDir;
+
+	@Test
+	void saveReindexesChangedEmail() {
+		InMemoryUserStore store = new InMemoryUserStore();
+		User user = store.save(new User("Ann", "old@example.com"));
+
+		user.setEmail("new@example.com");
+		store.save(user);
+
+		assertThat(store.existsByEmail("old@example.com")).isFalse();
+		assertThat(store.findByEmail("new@example.com")).map(User::getId).contains(user.getId());
+		assertThat(store.findExistingEmails(List.of("old@example.com", "new@example.com")))
+				.containsExactly("new@example.com");
+	}
+
+	@Test
+	void returnedUsersAreCopies() {
+		InMemoryUserStore store = new InMemoryUserStore();
+		User user = store.save(new User("Ann", "ann@example.com"));
+
+		store.findById(user.getId()).orElseThrow().setWins(5);
+
+		assertThat(store.findById(user.getId()).orElseThrow().getWins()).isZero();
+	}
+
+	@Test
+	void findTopByWinsOrdersByWinsDescending() {
+		InMemoryUserStore store = new InMemoryUserStore();
+		int[] wins = {3, 7, 0, 5};
+		for (int i = 0; i < wins.length; i++) {
+			User user = new User("User " + i, "user" + i + "@example.com");
+			user.setWins(wins[i]);
+			store.save(user);
+		}
+
+		assertThat(store.findTopByWins(3)).extracting(User::getWins).containsExactly(7, 5, 3);
+	}
+
+	@Test
+	void findPageReturnsUsersAfterId() {
+		InMemoryUserStore store = new InMemoryUserStore();
+		for (int i = 0; i < 5; i++) {
+			store.save(new User("User " + i, "user" + i + "@example.com"));
+		}
+
+		assertThat(store.findPage(0L, 2)).extracting(User::getId).containsExactly(1L, 2L);
+		assertThat(store.findPage(2L, 2)).extracting(User::getId).containsExactly(3L, 4L);
+		assertThat(store.findPage(4L, 2)).extracting(User::getId).containsExactly(5L);
+		assertThat(store.findPage(5L, 2)).isEmpty();
+	}
+
+	@Test
+	void snapshotRoundTripKeepsNullNameAndEmail() {
+		InMemoryUserStore store = userStore(snapshotDir.toString());
+		User ann = new User("Ann Ünal", "ann@example.com");
+		ann.setWins(4);
+		ann.setLosses(2);
+		ann.setDraws(1);
+		store.save(ann);
+		store.save(new User(null, null));
+		store.writeSnapshot();
+
+		InMemoryUserStore loaded = userStore(snapshotDir.toString());
+		loaded.loadSnapshot();
+
+		assertThat(loaded.findAll()).hasSize(2);
+		User loadedAnn = loaded.findByEmail("ann@example.com").orElseThrow();
+		assertThat(loadedAnn.getName()).isEqualTo("Ann Ünal");
+		assertThat(loadedAnn.getWins()).isEqualTo(4);
+		assertThat(loadedAnn.getLosses()).isEqualTo(2);
+		assertThat(loadedAnn.getDraws()).isEqualTo(1);
+		User anonymous = loaded.findById(2L).orElseThrow();
+		assertThat(anonymous.getName()).isNull();
+		assertThat(anonymous.getEmail()).isNull();
+	}
+
+	@Test
+	void loadRejectsTruncatedSnapshot() throws Exception {
+		InMemoryUserStore store = userStore(snapshotDir.toString());
+		store.save(new User("Ann", "ann@example.com"));
+		store.writeSnapshot();
+		Path file = snapshotDir.resolve("users.snapshot");
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+		InMemoryUserStore loaded = userStore(snapshotDir.toString());
+		assertThatThrownBy(loaded::loadSnapshot).isInstanceOf(IllegalStateException.class);
+		assertThat(loaded.findAll()).isEmpty();
+	}
+
+	private static InMemoryUserStore userStore(String snapshotDir) {
+		InMemoryUserStore store = new InMemoryUserStore();
+		ReflectionTestUtils.setField(store, "snapshotDir", snapshotDir);
+		return store;
+	}
+}
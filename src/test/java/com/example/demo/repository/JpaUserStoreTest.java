@@ -0,0 +1,48 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class JpaUserStoreTest {
+
+	@Autowired
+	private UserStore userStore;
+
+	@Test
+	void usesJpaEngineByDefault() {
+		assertThat(userStore).isInstanceOf(JpaUserStore.class);
+	}
+
+	@Test
+	void findTopByWinsOrdersByWinsDescending() {
+		int[] wins = {Integer.MAX_VALUE - 2, Integer.MAX_VALUE, Integer.MAX_VALUE - 1};
+		for (int i = 0; i < wins.length; i++) {
+			User user = new User("Top " + i, "jpa-top" + i + "@example.com");
+			user.setWins(wins[i]);
+			userStore.save(user);
+		}
+
+		assertThat(userStore.findTopByWins(3)).extracting(User::getWins)
+				.containsExactly(Integer.MAX_VALUE, Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 2);
+	}
+
+	@Test
+	void findPageReturnsUsersAfterId() {
+		User first = userStore.save(new User("Page 0", "jpa-page0@example.com"));
+		User second = userStore.save(new User("Page 1", "jpa-page1@example.com"));
+		User third = userStore.save(new User("Page 2", "jpa-page2@example.com"));
+
+		assertThat(userStore.findPage(first.getId() - 1, 2)).extracting(User::getId)
+				.containsExactly(first.getId(), second.getId());
+		assertThat(userStore.findPage(second.getId(), 2)).extracting(User::getId)
+				.containsExactly(third.getId());
+		assertThat(userStore.findPage(third.getId(), 2)).isEmpty();
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardSymmetryTest {
+
+	private static final String CELLS = "012345678";
+
+	@Test
+	void eachSymmetryPermutesCellsAsDocumented() {
+		assertThat(BoardSymmetry.transform(CELLS, 0)).isEqualTo("012345678");
+		assertThat(BoardSymmetry.transform(CELLS, 1)).isEqualTo("630741852");
+		assertThat(BoardSymmetry.transform(CELLS, 2)).isEqualTo("876543210");
+		assertThat(BoardSymmetry.transform(CELLS, 3)).isEqualTo("258147036");
+		assertThat(BoardSymmetry.transform(CELLS, 4)).isEqualTo("210543876");
+		assertThat(BoardSymmetry.transform(CELLS, 5)).isEqualTo("678345012");
+		assertThat(BoardSymmetry.transform(CELLS, 6)).isEqualTo("036147258");
+		assertThat(BoardSymmetry.transform(CELLS, 7)).isEqualTo("852741630");
+	}
+
+	@Test
+	void toOriginalCellInvertsTransform() {
+		String board = "XO--X-O-X";
+		for (int symmetry = 0; symmetry < 8; symmetry++) {
+			String transformed = BoardSymmetry.transform(board, symmetry);
+			Set<Integer> originalCells = new HashSet<>();
+			for (int cell = 0; cell < 9; cell++) {
+				int original = BoardSymmetry.toOriginalCell(cell, symmetry);
+				assertThat(transformed.charAt(cell)).isEqualTo(board.charAt(original));
+				originalCells.add(original);
+			}
+			assertThat(originalCells).hasSize(9);
+		}
+	}
+
+	@Test
+	void allSymmetriesOfABoardShareOneCanonicalKey() {
+		String board = "XO-----X-";
+		String canonical = BoardSymmetry.canonical(board);
+		for (int symmetry = 0; symmetry < 8; symmetry++) {
+			assertThat(BoardSymmetry.canonical(BoardSymmetry.transform(board, symmetry))).isEqualTo(canonical);
+		}
+		assertThat(BoardSymmetry.transform(board, BoardSymmetry.canonicalSymmetry(board))).isEqualTo(canonical);
+	}
+
+	@Test
+	void firstMovesReduceToCornerEdgeAndCenter() {
+		Set<String> keys = new HashSet<>();
+		for (int cell = 0; cell < 9; cell++) {
+			char[] board = "---------".toCharArray();
+			board[cell] = 'X';
+			keys.add(BoardSymmetry.canonical(new String(board)));
+		}
+		assertThat(keys).hasSize(3);
+	}
+}
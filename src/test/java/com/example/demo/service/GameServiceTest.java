@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Game;
+import com.example.demo.entity.User;
+import com.example.demo.repository.InMemoryGameStore;
+import com.example.demo.repository.InMemoryUserStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameServiceTest {
+
+	private GameService gameService;
+	private PositionAnalyticsService analytics;
+	private Game game;
+
+	@BeforeEach
+	void setUp() {
+		InMemoryUserStore userStore = new InMemoryUserStore();
+		InMemoryGameStore gameStore = new InMemoryGameStore();
+		ReflectionTestUtils.setField(gameStore, "userStore", userStore);
+		analytics = new PositionAnalyticsService();
+		ReflectionTestUtils.setField(analytics, "gameStore", gameStore);
+
+		gameService = new GameService();
+		ReflectionTestUtils.setField(gameService, "userStore", userStore);
+		ReflectionTestUtils.setField(gameService, "gameStore", gameStore);
+		ReflectionTestUtils.setField(gameService, "positionCache", new PositionCache());
+		ReflectionTestUtils.setField(gameService, "positionAnalyticsService", analytics);
+		ReflectionTestUtils.setField(gameService, "aiDifficulty", AiDifficulty.RANDOM);
+
+		game = gameService.createNewGame(userStore.save(new User("Ann", "ann@example.com")));
+	}
+
+	@Test
+	void rejectsMoveOnTakenPosition() {
+		gameService.makeMove(game, 4, 'X');
+		gameService.aiMove(game);
+
+		assertThatThrownBy(() -> gameService.makeMove(game, 4, 'X'))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("already taken");
+	}
+
+	@Test
+	void rejectsMoveOffTheBoardOrOutOfTurn() {
+		assertThatThrownBy(() -> gameService.makeMove(game, 9, 'X')).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> gameService.makeMove(game, 0, 'O')).isInstanceOf(IllegalStateException.class);
+		gameService.makeMove(game, 0, 'X');
+		assertThatThrownBy(() -> gameService.makeMove(game, 1, 'X')).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void rejectsMoveInFinishedGame() {
+		gameService.makeMove(game, 0, 'X');
+		gameService.updateGameResult(game, "LOSS");
+
+		assertThatThrownBy(() -> gameService.makeMove(game, 1, 'O')).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void storesOpeningAndCountsItOnlyOnceGameFinishes() {
+		gameService.makeMove(game, 0, 'X');
+		assertThat(game.getOpening()).isNull();
+		gameService.makeMove(game, 4, 'O');
+		gameService.makeMove(game, 1, 'X');
+		assertThat(game.getOpening()).isEqualTo("X---O----");
+		assertThat(analytics.getTopOpenings(10)).isEmpty();
+
+		gameService.updateGameResult(game, "DRAW");
+
+		assertThat(analytics.getTopOpenings(10)).containsOnlyKeys(BoardSymmetry.canonical("X---O----"));
+	}
+
+	@Test
+	void randomAiPlaysAnEmptyCell() {
+		gameService.makeMove(game, 4, 'X');
+		gameService.aiMove(game);
+
+		assertThat(game.getBoardState().chars().filter(c -> c == 'O')).hasSize(1);
+		assertThat(game.getBoardState().charAt(4)).isEqualTo('X');
+	}
+
+	@Test
+	void perfectAiBlocksThreat() {
+		ReflectionTestUtils.setField(gameService, "aiDifficulty", AiDifficulty.PERFECT);
+		gameService.makeMove(game, 0, 'X');
+		gameService.makeMove(game, 4, 'O');
+		gameService.makeMove(game, 1, 'X');
+
+		gameService.aiMove(game);
+
+		assertThat(game.getBoardState()).isEqualTo("XXO-O----");
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Game;
+import com.example.demo.repository.InMemoryGameStore;
+import com.example.demo.repository.InMemoryUserStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class PositionAnalyticsServiceTest {
+
+	@Test
+	void countsOpeningsBySymmetryClass() {
+		PositionAnalyticsService analytics = analytics(new InMemoryGameStore());
+
+		analytics.recordFinishedGame("XXXOO----", "X---O----");
+		analytics.recordFinishedGame("O-XOX-X--", "--X-O----");
+		analytics.recordFinishedGame("XOXXOOOXX", "XO-------");
+		analytics.recordFinishedGame("XXX-OO---", null);
+
+		assertThat(analytics.getTopOpenings(10)).hasSize(2)
+				.containsEntry(BoardSymmetry.canonical("XO-------"), 1L);
+		assertThat(analytics.getTopOpenings(1)).containsExactly(entry(BoardSymmetry.canonical("X---O----"), 2L));
+	}
+
+	@Test
+	void loadsFinishedGamesAndCountsNewOnes() {
+		InMemoryGameStore gameStore = new InMemoryGameStore();
+		ReflectionTestUtils.setField(gameStore, "userStore", new InMemoryUserStore());
+		Game finished = new Game(null, "XXXOO----");
+		finished.setOpening("X---O----");
+		finished.setResult("WIN");
+		gameStore.save(finished);
+		Game abandoned = new Game(null, "X-O------");
+		abandoned.setOpening("X-O------");
+		gameStore.save(abandoned);
+		PositionAnalyticsService analytics = analytics(gameStore);
+
+		analytics.loadFinishedGames();
+		analytics.recordFinishedGame("----OOXXX", "----O---X");
+
+		assertThat(analytics.getTopFinalPositions(10))
+				.containsExactly(entry(BoardSymmetry.canonical("XXXOO----"), 2L));
+		assertThat(analytics.getTopOpenings(10))
+				.containsExactly(entry(BoardSymmetry.canonical("X---O----"), 2L));
+	}
+
+	@Test
+	void rejectsNonPositiveLimit() {
+		PositionAnalyticsService analytics = analytics(new InMemoryGameStore());
+
+		assertThatThrownBy(() -> analytics.getTopOpenings(0)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> analytics.getTopFinalPositions(-1)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static PositionAnalyticsService analytics(InMemoryGameStore gameStore) {
+		PositionAnalyticsService analytics = new PositionAnalyticsService();
+		ReflectionTestUtils.setField(analytics, "gameStore", gameStore);
+		return analytics;
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PositionCacheTest {
+
+	@Test
+	void emptyBoardIsADrawAndFillsCacheWithCanonicalPositions() {
+		PositionCache cache = new PositionCache();
+
+		PositionEvaluation evaluation = cache.evaluate("---------", 'X');
+
+		assertThat(evaluation.outcome()).isEqualTo('-');
+		assertThat(evaluation.plies()).isEqualTo(9);
+		assertThat(cache.size()).isEqualTo(765);
+	}
+
+	@Test
+	void takesImmediateWin() {
+		PositionEvaluation evaluation = new PositionCache().evaluate("XX-OO----", 'O');
+
+		assertThat(evaluation.bestMove()).isEqualTo(5);
+		assertThat(evaluation.outcome()).isEqualTo('O');
+		assertThat(evaluation.plies()).isEqualTo(1);
+	}
+
+	@Test
+	void blocksThreatEvenWhenLost() {
+		assertThat(new PositionCache().evaluate("XX-O-----", 'O').bestMove()).isEqualTo(2);
+		assertThat(new PositionCache().evaluate("-XX-----O", 'O').bestMove()).isEqualTo(0);
+	}
+
+	@Test
+	void evaluatesForTheGivenPlayer() {
+		PositionCache cache = new PositionCache();
+
+		assertThat(cache.evaluate("XX-------", 'O').bestMove()).isEqualTo(2);
+		assertThat(cache.evaluate("XX-------", 'X').bestMove()).isEqualTo(2);
+		assertThat(cache.evaluate("XX-------", 'X').outcome()).isEqualTo('X');
+	}
+
+	@Test
+	void finishedBoardHasNoMove() {
+		PositionEvaluation evaluation = new PositionCache().evaluate("XXXOO----", 'O');
+
+		assertThat(evaluation.bestMove()).isEqualTo(-1);
+		assertThat(evaluation.outcome()).isEqualTo('X');
+	}
+
+	@Test
+	void rejectsUnknownPlayer() {
+		assertThatThrownBy(() -> new PositionCache().evaluate("---------", '-'))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.BulkImportError;
+import com.example.demo.entity.BulkImportResult;
+import com.example.demo.entity.User;
+import com.example.demo.repository.InMemoryUserStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserBulkServiceTest {
+
+	private InMemoryUserStore userStore;
+	private UserBulkService userBulkService;
+
+	@BeforeEach
+	void setUp() {
+		userStore = new InMemoryUserStore();
+		userBulkService = new UserBulkService();
+		ReflectionTestUtils.setField(userBulkService, "userStore", userStore);
+		ReflectionTestUtils.setField(userBulkService, "objectMapper", new ObjectMapper());
+	}
+
+	@Test
+	void parseCsvLineHandlesQuotesEscapesAndEmptyFields() throws IOException {
+		assertThat(UserBulkService.parseCsvLine("a,b,c")).containsExactly("a", "b", "c");
+		assertThat(UserBulkService.parseCsvLine("\"Smith, Ann\",ann@example.com"))
+				.containsExactly("Smith, Ann", "ann@example.com");
+		assertThat(UserBulkService.parseCsvLine("\"say \"\"hi\"\"\",x")).containsExactly("say \"hi\"", "x");
+		assertThat(UserBulkService.parseCsvLine("a,")).containsExactly("a", "");
+		assertThat(UserBulkService.parseCsvLine(",")).containsExactly("", "");
+		assertThat(UserBulkService.parseCsvLine(" a , b ")).containsExactly("a", "b");
+		assertThat(UserBulkService.parseCsvLine("\"  padded \",x")).containsExactly("  padded ", "x");
+		assertThat(UserBulkService.parseCsvLine("\"two\nlines\",x")).containsExactly("two\nlines", "x");
+	}
+
+	@Test
+	void csvImportHandlesByteOrderMarkAndWindowsLineEndings() throws IOException {
+		String csv = "\uFEFFname,email\r\n"
+				+ "Ann,ann@example.com\r\n"
+				+ "\"Multi\r\nline\",multi@example.com\r\n"
+				+ ",\r\n"
+				+ "Bob,bob@example.com\r\n";
+
+		BulkImportResult result = importUsers(csv, UserBulkService.CSV);
+
+		assertThat(result.getImported()).isEqualTo(3);
+		assertThat(result.getErrors()).extracting(BulkImportError::getLine).containsExactly(5L);
+		assertThat(userStore.findByEmail("multi@example.com")).map(User::getName).contains("Multi\r\nline");
+	}
+
+	@Test
+	void csvImportStopsAtUnterminatedQuote() throws IOException {
+		String csv = "name,email\n"
+				+ "Ann,ann@example.com\n"
+				+ "\"Broken,broken@example.com\n"
+				+ "Bob,bob@example.com\n";
+
+		BulkImportResult result = importUsers(csv, UserBulkService.CSV);
+
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getErrors()).extracting(BulkImportError::getLine).containsExactly(3L);
+	}
+
+	@Test
+	void csvExportRoundTripsThroughImport() throws IOException {
+		String[] names = {
+				"Plain", "Smith, Ann", "say \"hi\"", "two\nlines", "carriage\rreturn", "crlf\r\nname",
+				"  leading", "trailing  ", "Ünïcödé", ""
+		};
+		for (int i = 0; i < names.length; i++) {
+			userStore.save(new User(names[i], "user" + i + "@example.com"));
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		userBulkService.exportUsers(output, UserBulkService.CSV);
+
+		InMemoryUserStore target = new InMemoryUserStore();
+		ReflectionTestUtils.setField(userBulkService, "userStore", target);
+		BulkImportResult result = userBulkService.importUsers(new ByteArrayInputStream(output.toByteArray()),
+				UserBulkService.CSV);
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(result.getImported()).isEqualTo(names.length);
+		for (int i = 0; i < names.length; i++) {
+			assertThat(target.findByEmail("user" + i + "@example.com")).map(User::getName).contains(names[i]);
+		}
+	}
+
+	@Test
+	void ndjsonExportRoundTripsThroughImport() throws IOException {
+		userStore.save(new User("two\nlines, \"quoted\"", "ann@example.com"));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		userBulkService.exportUsers(output, UserBulkService.NDJSON);
+
+		InMemoryUserStore target = new InMemoryUserStore();
+		ReflectionTestUtils.setField(userBulkService, "userStore", target);
+		BulkImportResult result = userBulkService.importUsers(new ByteArrayInputStream(output.toByteArray()),
+				UserBulkService.NDJSON);
+
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(target.findByEmail("ann@example.com")).map(User::getName).contains("two\nlines, \"quoted\"");
+	}
+
+	@Test
+	void csvImportReportsRowErrorsAndContinues() throws IOException {
+		userStore.save(new User("Existing", "old@example.com"));
+		String csv = "email,name\n"
+				+ "\" ann@example.com\",\"Smith, Ann\"\n"
+				+ "old@example.com,Old\n"
+				+ ",No Mail\n"
+				+ "\n"
+				+ "ann@example.com,Duplicate\n"
+				+ "bob@example.com,Bob\n";
+
+		BulkImportResult result = importUsers(csv, UserBulkService.CSV);
+
+		assertThat(result.getImported()).isEqualTo(2);
+		assertThat(result.getErrorCount()).isEqualTo(3);
+		assertThat(result.getErrors()).extracting(BulkImportError::getLine).containsExactlyInAnyOrder(3L, 4L, 6L);
+		assertThat(userStore.findByEmail("ann@example.com")).map(User::getName).contains("Smith, Ann");
+		assertThat(userStore.existsByEmail("bob@example.com")).isTrue();
+	}
+
+	@Test
+	void csvImportRequiresHeader() {
+		assertThatThrownBy(() -> importUsers("ann@example.com,Ann\n", UserBulkService.CSV))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void ndjsonImportReportsNonObjectAndMalformedRows() throws IOException {
+		String ndjson = "{\"name\":\"Ann\",\"email\":\"ann@example.com\"}\n"
+				+ "null\n"
+				+ "[1,2]\n"
+				+ "\"text\"\n"
+				+ "{\"name\":\"Broken\"\n"
+				+ "{\"name\":\"No Mail\"}\n"
+				+ "{\"name\":\"Bob\",\"email\":\"bob@example.com\"}\n";
+
+		BulkImportResult result = importUsers(ndjson, UserBulkService.NDJSON);
+
+		assertThat(result.getImported()).isEqualTo(2);
+		assertThat(result.getErrors()).extracting(BulkImportError::getLine).containsExactly(2L, 3L, 4L, 5L, 6L);
+		assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Row is not a JSON object.");
+	}
+
+	@Test
+	void reportedErrorsAreCapped() throws IOException {
+		StringBuilder csv = new StringBuilder("name,email\n");
+		int badRows = UserBulkService.MAX_REPORTED_ERRORS * 3;
+		for (int i = 0; i < badRows; i++) {
+			csv.append("Nobody,\n");
+		}
+		csv.append("Ann,ann@example.com\n");
+
+		BulkImportResult result = importUsers(csv.toString(), UserBulkService.CSV);
+
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getErrorCount()).isEqualTo(badRows);
+		assertThat(result.getErrors()).hasSize(UserBulkService.MAX_REPORTED_ERRORS);
+	}
+
+	@Test
+	void exportWritesEveryUserAcrossPages() throws IOException {
+		for (int i = 0; i < 1200; i++) {
+			userStore.save(new User("User " + i, "user" + i + "@example.com"));
+		}
+		User quoted = new User("Smith, \"Ann\"", "ann@example.com");
+		quoted.setWins(3);
+		userStore.save(quoted);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		userBulkService.exportUsers(output, UserBulkService.CSV);
+		String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+
+		assertThat(lines).hasSize(1202);
+		assertThat(lines[0]).isEqualTo("id,name,email,wins,losses,draws");
+		assertThat(lines[1201]).isEqualTo("1201,\"Smith, \"\"Ann\"\"\",ann@example.com,3,0,0");
+	}
+
+	private BulkImportResult importUsers(String body, String format) throws IOException {
+		return userBulkService.importUsers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.User;
+import com.example.demo.entity.UserDto;
+import com.example.demo.exception.UserEmailAlreadyExistsException;
+import com.example.demo.repository.InMemoryUserStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserServiceTest {
+
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		userService = new UserService();
+		ReflectionTestUtils.setField(userService, "userStore", new InMemoryUserStore());
+	}
+
+	@Test
+	void createUserNormalizesEmail() {
+		User user = userService.createUser(userDto("Ann", " ann@example.com "));
+
+		assertThat(user.getEmail()).isEqualTo("ann@example.com");
+		assertThat(userService.findByEmail("ann@example.com ").getId()).isEqualTo(user.getId());
+		assertThatThrownBy(() -> userService.createUser(userDto("Ann again", "ann@example.com")))
+				.isInstanceOf(UserEmailAlreadyExistsException.class);
+	}
+
+	private static UserDto userDto(String name, String email) {
+		UserDto userDto = new UserDto();
+		userDto.setName(name);
+		userDto.setEmail(email);
+		return userDto;
+	}
+}